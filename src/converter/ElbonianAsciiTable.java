@@ -0,0 +1,95 @@
+package converter;
+
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An off-heap table that holds the ASCII bytes of every Elbonian numeral from -9999 to 9999. Numerals are
+ * copied straight from the table into a ByteBuffer, so writing a numeral to a socket buffer creates no String
+ * and does no charset encoding.
+ *
+ * The table lives in a single direct ByteBuffer. OFFSETS[value - MIN_VALUE] is where the numeral for value
+ * starts and the next offset is where it ends.
+ *
+ * @version 10/19/26
+ */
+public final class ElbonianAsciiTable {
+    private static final int MIN_VALUE = TableElbonianCodec.MIN_VALUE;
+    private static final int MAX_VALUE = TableElbonianCodec.MAX_VALUE;
+
+    // The ASCII bytes of every numeral, one after another
+    private static final ByteBuffer TABLE;
+    // Where each numeral starts in TABLE, with one extra entry for where the last one ends
+    private static final int[] OFFSETS = new int[MAX_VALUE - MIN_VALUE + 2];
+
+    static {
+        int size = 0;
+        for (int i = MIN_VALUE; i <= MAX_VALUE; i++) {
+            OFFSETS[i - MIN_VALUE] = size;
+            size += TableElbonianCodec.elbonian(i).length();
+        }
+        OFFSETS[OFFSETS.length - 1] = size;
+
+        ByteBuffer table = ByteBuffer.allocateDirect(size);
+        for (int i = MIN_VALUE; i <= MAX_VALUE; i++) {
+            String elbonian = TableElbonianCodec.elbonian(i);
+            for (int j = 0; j < elbonian.length(); j++) {
+                // Elbonian numerals only use the characters -NMDCLXVIZ, which are all ASCII
+                table.put((byte) elbonian.charAt(j));
+            }
+        }
+        table.flip();
+        TABLE = table.asReadOnlyBuffer();
+    }
+
+    // Each thread gets its own view of the table so the copies do not fight over the position and limit
+    private static final ThreadLocal<ByteBuffer> VIEWS = ThreadLocal.withInitial(TABLE::duplicate);
+
+    private ElbonianAsciiTable() {
+    }
+
+    /**
+     * Returns how many bytes the Elbonian numeral for the value takes up.
+     *
+     * @param value An Arabic value
+     * @return The length of the Elbonian numeral in bytes
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     */
+    public static int length(int value) throws ValueOutOfBoundsException {
+        int index = index(value);
+        return OFFSETS[index + 1] - OFFSETS[index];
+    }
+
+    /**
+     * Writes the ASCII bytes of the Elbonian numeral for the value into the buffer at its current position
+     * and moves the position past them. Nothing is written if the buffer does not have enough room.
+     *
+     * @param buffer The buffer to write to, usually a direct buffer for a socket
+     * @param value An Arabic value
+     * @return The number of bytes written
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     * @throws BufferOverflowException Thrown if the buffer does not have room for the whole numeral.
+     */
+    public static int writeTo(ByteBuffer buffer, int value) throws ValueOutOfBoundsException {
+        int index = index(value);
+        int offset = OFFSETS[index];
+        int length = OFFSETS[index + 1] - offset;
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        ByteBuffer view = VIEWS.get();
+        view.limit(offset + length);
+        view.position(offset);
+        buffer.put(view);
+        return length;
+    }
+
+    private static int index(int value) throws ValueOutOfBoundsException {
+        if (value < MIN_VALUE || value > MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Number must be between -9999 and 9999!");
+        }
+        return value - MIN_VALUE;
+    }
+}
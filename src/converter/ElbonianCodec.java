@@ -0,0 +1,47 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * A codec that converts numbers between the Elbonian and Arabic numeral forms. Implementations must behave
+ * exactly like {@link ElbonianArabicConverter}: the same inputs are accepted, the same values are returned
+ * and the same exceptions are thrown. They are free to trade memory for speed however they like.
+ *
+ * Implementations are discovered with {@link java.util.ServiceLoader} and selected through {@link ElbonianCodecs}.
+ * A discoverable implementation must be public and have a public no-argument constructor.
+ *
+ * @version 10/19/26
+ */
+public interface ElbonianCodec {
+
+    /**
+     * The name used to select this codec, either through the {@value ElbonianCodecs#CODEC_PROPERTY} system
+     * property or through {@link ElbonianCodecs.Builder#name(String)}.
+     *
+     * @return A short, unique name for this codec
+     */
+    String name();
+
+    /**
+     * Converts the number to an Arabic numeral or returns the current value as an int if it is already
+     * in the Arabic form. Leading and trailing spaces are ignored.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return An arabic value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value does not conform to the rules of the number system.
+     */
+    int toArabic(String number) throws MalformedNumberException, ValueOutOfBoundsException;
+
+    /**
+     * Converts the number to an Elbonian numeral or returns the current value if it is already in the Elbonian
+     * form. Leading and trailing spaces are ignored.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return An Elbonian value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value does not conform to the rules of the number system.
+     */
+    String toElbonian(String number) throws MalformedNumberException, ValueOutOfBoundsException;
+}
@@ -0,0 +1,124 @@
+package converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Finds and selects {@link ElbonianCodec} implementations. Codecs are discovered with {@link ServiceLoader}
+ * from META-INF/services/converter.ElbonianCodec. The reference codec is always available, even when no
+ * service file is found on the class path.
+ *
+ * @version 10/19/26
+ */
+public final class ElbonianCodecs {
+    // The system property that names the codec returned by getDefault()
+    public static final String CODEC_PROPERTY = "converter.codec";
+
+    private ElbonianCodecs() {
+    }
+
+    /**
+     * Returns the codec named by the {@value #CODEC_PROPERTY} system property, or the reference codec if
+     * the property is not set.
+     *
+     * @return The selected codec
+     * @throws IllegalArgumentException Thrown if the property names a codec that cannot be found.
+     */
+    public static ElbonianCodec getDefault() {
+        return builder().build();
+    }
+
+    /**
+     * Returns the codec with the given name.
+     *
+     * @param name The name of the codec
+     * @return The codec with that name
+     * @throws IllegalArgumentException Thrown if no codec has that name.
+     */
+    public static ElbonianCodec get(String name) {
+        return builder().name(name).build();
+    }
+
+    /**
+     * Returns a new instance of every codec that can be found, starting with the reference codec.
+     *
+     * @return All available codecs
+     */
+    public static List<ElbonianCodec> available() {
+        return available(Thread.currentThread().getContextClassLoader());
+    }
+
+    private static List<ElbonianCodec> available(ClassLoader classLoader) {
+        List<ElbonianCodec> codecs = new ArrayList<>();
+        codecs.add(new ReferenceElbonianCodec());
+        for (ElbonianCodec codec : ServiceLoader.load(ElbonianCodec.class, classLoader)) {
+            if (!codec.name().equals(ReferenceElbonianCodec.NAME)) {
+                codecs.add(codec);
+            }
+        }
+        return codecs;
+    }
+
+    /**
+     * Creates a builder for selecting a codec.
+     *
+     * @return A new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Selects a codec by name. When no name is given, the {@value #CODEC_PROPERTY} system property is used,
+     * and when that is not set either the reference codec is used.
+     */
+    public static final class Builder {
+        private String name;
+        private ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the name of the codec to select.
+         *
+         * @param name The name of the codec
+         * @return This builder
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the class loader used to look for codecs. The context class loader is used by default.
+         *
+         * @param classLoader The class loader to search
+         * @return This builder
+         */
+        public Builder classLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            return this;
+        }
+
+        /**
+         * Finds the selected codec.
+         *
+         * @return The selected codec
+         * @throws IllegalArgumentException Thrown if no codec has the selected name.
+         */
+        public ElbonianCodec build() {
+            String selected = name != null ? name : System.getProperty(CODEC_PROPERTY, ReferenceElbonianCodec.NAME);
+            if (selected.equals(ReferenceElbonianCodec.NAME)) {
+                return new ReferenceElbonianCodec();
+            }
+            for (ElbonianCodec codec : available(classLoader)) {
+                if (codec.name().equals(selected)) {
+                    return codec;
+                }
+            }
+            throw new IllegalArgumentException("No Elbonian codec named " + selected);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package converter;
+
+/**
+ * Finds Elbonian and Arabic numerals in free text and rewrites each one into the other form. The text is read
+ * once from start to end and everything that is not a numeral is copied to the output unchanged. Words that
+ * are not numerals are simply skipped over, no exceptions are thrown for them.
+ *
+ * A token is a run of letters and digits, with an optional minus sign in front of it when the minus sign does
+ * not follow a letter or digit. A token is rewritten when it is a valid Elbonian numeral (case sensitive, so
+ * "I" is rewritten but "i" is not) or an Arabic number between -9999 and 9999. "-0" is never a numeral.
+ *
+ * @version 10/19/26
+ */
+public final class ElbonianScanner {
+    // Returned by the parse methods when a token is not a numeral
+    private static final int NOT_A_NUMERAL = Integer.MIN_VALUE;
+
+    // The Elbonian letters from the greatest magnitude down to the least magnitude
+    private static final char[] LETTERS = {'N', 'M', 'D', 'C', 'L', 'X', 'V', 'I'};
+    private static final int[] VALUES = {3000, 1000, 300, 100, 30, 10, 3, 1};
+    // N, D, L, V can appear up to three times in a row and M, C, X, I up to two times
+    private static final int[] MAX_COUNTS = {3, 2, 3, 2, 3, 2, 3, 2};
+
+    private ElbonianScanner() {
+    }
+
+    /**
+     * Rewrites every numeral in the text into the other form.
+     *
+     * @param text The text to scan
+     * @return The text with every numeral rewritten
+     */
+    public static String rewrite(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        rewrite(text, out);
+        return out.toString();
+    }
+
+    /**
+     * Rewrites every numeral in the text into the other form and appends the result to the output.
+     *
+     * @param text The text to scan
+     * @param out Where the rewritten text is appended
+     * @return The number of numerals that were rewritten
+     */
+    public static int rewrite(CharSequence text, StringBuilder out) {
+        int rewritten = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+            boolean sign = ch == '-' && i + 1 < length && isTokenChar(text.charAt(i + 1))
+                    && (i == 0 || !isTokenChar(text.charAt(i - 1)));
+            if (!sign && !isTokenChar(ch)) {
+                out.append(ch);
+                i++;
+                continue;
+            }
+
+            int start = i;
+            int end = sign ? i + 1 : i;
+            while (end < length && isTokenChar(text.charAt(end))) {
+                end++;
+            }
+
+            int body = sign ? start + 1 : start;
+            if (isDigit(text.charAt(body))) {
+                int value = parseArabic(text, body, end);
+                if (value != NOT_A_NUMERAL && !(sign && value == 0)) {
+                    out.append(TableElbonianCodec.elbonian(sign ? -value : value));
+                    rewritten++;
+                } else {
+                    out.append(text, start, end);
+                }
+            } else {
+                int value = parseElbonian(text, body, end);
+                if (value != NOT_A_NUMERAL && !(sign && value == 0)) {
+                    out.append(sign ? -value : value);
+                    rewritten++;
+                } else {
+                    out.append(text, start, end);
+                }
+            }
+            i = end;
+        }
+        return rewritten;
+    }
+
+    private static boolean isTokenChar(char ch) {
+        return Character.isLetterOrDigit(ch);
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /*
+     * Parses the digits between start and end. Returns NOT_A_NUMERAL if there is anything other than the
+     * digits 0-9 or the value is larger than 9999.
+     */
+    private static int parseArabic(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+            if (!isDigit(ch)) {
+                return NOT_A_NUMERAL;
+            }
+            value = value * 10 + (ch - '0');
+            if (value > TableElbonianCodec.MAX_VALUE) {
+                return NOT_A_NUMERAL;
+            }
+        }
+        return value;
+    }
+
+    /*
+     * Parses the Elbonian letters between start and end. Returns NOT_A_NUMERAL if they break any of the
+     * Elbonian rules.
+     */
+    private static int parseElbonian(CharSequence text, int start, int end) {
+        //8. Z can only appear once and without any other letters.
+        if (end - start == 1 && text.charAt(start) == 'Z') {
+            return 0;
+        }
+
+        //9. The letters go from the greatest magnitude down to the least magnitude, so they are read in that order.
+        int total = 0;
+        int i = start;
+        int previousCount = 0;
+        for (int letter = 0; letter < LETTERS.length; letter++) {
+            int count = 0;
+            while (i < end && text.charAt(i) == LETTERS[letter] && count < MAX_COUNTS[letter]) {
+                count++;
+                i++;
+            }
+            //3-6. If N, D, L or V appears three times, then M, C, X or I cannot appear.
+            if (letter % 2 == 1 && previousCount == 3 && count > 0) {
+                return NOT_A_NUMERAL;
+            }
+            total += count * VALUES[letter];
+            previousCount = count;
+        }
+
+        // Anything left over is out of order, repeated too many times or not an Elbonian letter
+        if (i != end || i == start) {
+            return NOT_A_NUMERAL;
+        }
+        return total;
+    }
+}
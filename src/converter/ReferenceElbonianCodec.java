@@ -0,0 +1,30 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * The reference codec. Every call creates an {@link ElbonianArabicConverter}, so it keeps no state at all and
+ * is the smallest codec there is. All other codecs are tested against this one.
+ *
+ * @version 10/19/26
+ */
+public class ReferenceElbonianCodec implements ElbonianCodec {
+    // The name of this codec, it is also the default codec
+    public static final String NAME = "reference";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int toArabic(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(number).toArabic();
+    }
+
+    @Override
+    public String toElbonian(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(number).toElbonian();
+    }
+}
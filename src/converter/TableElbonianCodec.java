@@ -0,0 +1,107 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A table driven codec for throughput. Every Elbonian numeral from -9999 to 9999 is computed once by the
+ * reference codec and kept in a table, so converting a valid number is a lookup. Anything that is not in
+ * the table is handed to the reference codec, which keeps the exceptions and odd inputs identical.
+ *
+ * @version 10/19/26
+ */
+public class TableElbonianCodec implements ElbonianCodec {
+    // The name of this codec
+    public static final String NAME = "table";
+
+    // The smallest and largest values that can be represented in the Elbonian number system
+    static final int MIN_VALUE = -9999;
+    static final int MAX_VALUE = 9999;
+
+    // ELBONIAN[value - MIN_VALUE] is the Elbonian numeral for value
+    private static final String[] ELBONIAN = new String[MAX_VALUE - MIN_VALUE + 1];
+    // Maps every Elbonian numeral back to its value
+    private static final Map<String, Integer> ARABIC = new HashMap<>(ELBONIAN.length * 2);
+
+    static {
+        ReferenceElbonianCodec reference = new ReferenceElbonianCodec();
+        for (int i = MIN_VALUE; i <= MAX_VALUE; i++) {
+            try {
+                String elbonian = reference.toElbonian(String.valueOf(i));
+                ELBONIAN[i - MIN_VALUE] = elbonian;
+                ARABIC.put(elbonian, i);
+            } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+
+    // Used for everything that is not in the table
+    private final ReferenceElbonianCodec reference = new ReferenceElbonianCodec();
+
+    /**
+     * Returns the Elbonian numeral for a value without any checks.
+     *
+     * @param value A value between -9999 and 9999
+     * @return The Elbonian numeral for the value
+     */
+    static String elbonian(int value) {
+        return ELBONIAN[value - MIN_VALUE];
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int toArabic(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        Integer value = ARABIC.get(number.trim());
+        if (value != null) {
+            return value;
+        }
+        return reference.toArabic(number);
+    }
+
+    @Override
+    public String toElbonian(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        String trimmed = number.trim();
+        if (ARABIC.containsKey(trimmed)) {
+            return trimmed;
+        }
+        int value = parseArabic(trimmed);
+        if (value != Integer.MIN_VALUE) {
+            return elbonian(value);
+        }
+        return reference.toElbonian(number);
+    }
+
+    /*
+     * Parses a plain Arabic number like "-42" that is within the Elbonian bounds. Anything else, such as "-0",
+     * "+4", leading zeros or values out of bounds, returns Integer.MIN_VALUE so the reference codec can
+     * handle it.
+     */
+    private static int parseArabic(String number) {
+        int length = number.length();
+        int start = length > 0 && number.charAt(0) == '-' ? 1 : 0;
+        int digits = length - start;
+        if (digits < 1 || digits > 4 || (digits > 1 && number.charAt(start) == '0')) {
+            return Integer.MIN_VALUE;
+        }
+        int value = 0;
+        for (int i = start; i < length; i++) {
+            char ch = number.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        if (start == 1) {
+            return value == 0 ? Integer.MIN_VALUE : -value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,73 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianAsciiTable;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the ElbonianAsciiTable class.
+ */
+public class AsciiTableTests {
+
+    @Test
+    public void writesEveryNumeral() throws MalformedNumberException, ValueOutOfBoundsException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        for (int i = -9999; i <= 9999; i++) {
+            String expected = new ElbonianArabicConverter(String.valueOf(i)).toElbonian();
+            buffer.clear();
+            int length = ElbonianAsciiTable.writeTo(buffer, i);
+            buffer.flip();
+
+            assertEquals(expected.length(), length);
+            assertEquals(expected.length(), ElbonianAsciiTable.length(i));
+            assertEquals(expected, StandardCharsets.US_ASCII.decode(buffer).toString());
+        }
+    }
+
+    @Test
+    public void writesAtCurrentPosition() throws ValueOutOfBoundsException {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) '[');
+        ElbonianAsciiTable.writeTo(buffer, 4);
+        buffer.put((byte) ',');
+        ElbonianAsciiTable.writeTo(buffer, -9999);
+        buffer.put((byte) ',');
+        ElbonianAsciiTable.writeTo(buffer, 0);
+        buffer.put((byte) ']');
+        buffer.flip();
+
+        assertEquals("[VI,-NNNDDDLLLVVV,Z]", StandardCharsets.US_ASCII.decode(buffer).toString());
+    }
+
+    @Test
+    public void writesNothingWhenFull() throws ValueOutOfBoundsException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+        buffer.put((byte) 'x');
+        try {
+            ElbonianAsciiTable.writeTo(buffer, 9999);
+            fail("Expected BufferOverflowException");
+        } catch (BufferOverflowException e) {
+            // expected
+        }
+        assertEquals(1, buffer.position());
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void valueTooLarge() throws ValueOutOfBoundsException {
+        ElbonianAsciiTable.writeTo(ByteBuffer.allocateDirect(64), 10000);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void valueTooSmall() throws ValueOutOfBoundsException {
+        ElbonianAsciiTable.length(-10000);
+    }
+}
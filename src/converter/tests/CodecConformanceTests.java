@@ -0,0 +1,218 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianCodec;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases that every ElbonianCodec must pass. They are the cases from ConverterTests, run through the
+ * codec instead of the ElbonianArabicConverter. Subclasses only need to say which codec to test.
+ */
+public abstract class CodecConformanceTests {
+    protected ElbonianCodec codec;
+
+    /**
+     * Creates the codec that is being tested.
+     *
+     * @return A new codec
+     */
+    protected abstract ElbonianCodec createCodec();
+
+    @Before
+    public void setUp() {
+        codec = createCodec();
+    }
+
+    @Test
+    public void ElbonianToArabicSampleTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals("I", codec.toElbonian("1"));
+    }
+
+    @Test
+    public void ArabicToElbonianSampleTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals(1, codec.toArabic("I"));
+    }
+
+    //1. The following letters - M, C, X, and I - can each be repeated up to two times in a row.
+    @Test
+    public void test1_2s() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals(2000, codec.toArabic("MM"));
+        assertEquals(200, codec.toArabic("CC"));
+        assertEquals(20, codec.toArabic("XX"));
+        assertEquals(2, codec.toArabic("II"));
+    }
+
+    @Test
+    public void test1_3s() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("MMM");
+        assertMalformedArabic("CCC");
+        assertMalformedArabic("XXX");
+        assertMalformedArabic("III");
+    }
+
+    //2. The following letters - N, D, L, V - can each appear up to three times in a row
+    @Test
+    public void test2_3s() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals(9000, codec.toArabic("NNN"));
+        assertEquals(900, codec.toArabic("DDD"));
+        assertEquals(90, codec.toArabic("LLL"));
+        assertEquals(9, codec.toArabic("VVV"));
+    }
+
+    @Test
+    public void test2_4s() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("NNNN");
+        assertMalformedArabic("DDDD");
+        assertMalformedArabic("LLLL");
+        assertMalformedArabic("VVVV");
+    }
+
+    //3-6. If N, D, L or V appears three times, then M, C, X or I cannot appear.
+    @Test
+    public void test3to6() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("NNNM");
+        assertMalformedArabic("DDDC");
+        assertMalformedArabic("LLLX");
+        assertMalformedArabic("VVVI");
+    }
+
+    //7. A single minus sign makes the number negative.
+    @Test
+    public void test7() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals(-3, codec.toArabic("-V"));
+        assertMalformedArabic("--V");
+        assertMalformedArabic("--3");
+    }
+
+    //8. Z can only appear once and without any other letters or minus sign.
+    @Test
+    public void test8() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("-Z");
+        assertMalformedArabic("VZ");
+        assertEquals(0, codec.toArabic("Z"));
+    }
+
+    //9. Numbers are represented by the letters from the greatest magnitude down to the least magnitude.
+    @Test
+    public void test9() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("NMDCXL");
+        assertEquals(4444, codec.toArabic("NMDCLXVI"));
+    }
+
+    //10. Only numbers between -9999 and 9999 can be represented.
+    @Test
+    public void test10() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertOutOfBoundsElbonian("10000");
+        assertOutOfBoundsElbonian("-10000");
+        assertOutOfBoundsArabic("10000");
+        assertOutOfBoundsArabic("-10000");
+        assertEquals("NNNDDDLLLVVV", codec.toElbonian("9999"));
+        assertEquals("-NNNDDDLLLVVV", codec.toElbonian("-9999"));
+    }
+
+    //11. Leading and trailing spaces are fine, spaces in the middle are not.
+    @Test
+    public void test11() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertEquals("NNNDDDLLLVVV", codec.toElbonian(" 9999 "));
+        assertEquals(4, codec.toArabic(" VI "));
+        assertEquals("VI", codec.toElbonian(" VI "));
+        assertMalformedElbonian("9 9");
+        assertMalformedArabic("V I");
+    }
+
+    //12. Elbonian numbers are case sensitive.
+    @Test
+    public void test12() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("IlI");
+        assertMalformedArabic("m");
+    }
+
+    @Test
+    public void test14and15() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertMalformedArabic("-0");
+        assertMalformedElbonian("-0");
+        assertMalformedArabic("");
+        assertMalformedElbonian("");
+    }
+
+    @Test
+    public void testUnusualArabicInput() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] inputs = {"+5", "007", "-007", "-00", "0", "99999999999", "V3", "-abc"};
+        for (String input : inputs) {
+            assertSameAsConverter(input);
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = -9999; i <= 9999; i++) {
+            String elbonianNumber = codec.toElbonian(String.valueOf(i));
+            assertEquals(new ElbonianArabicConverter(String.valueOf(i)).toElbonian(), elbonianNumber);
+            assertEquals(i, codec.toArabic(elbonianNumber));
+            assertEquals(i, codec.toArabic(String.valueOf(i)));
+            assertEquals(elbonianNumber, codec.toElbonian(elbonianNumber));
+        }
+    }
+
+    private void assertMalformedArabic(String number) throws ValueOutOfBoundsException {
+        try {
+            codec.toArabic(number);
+            fail("Expected MalformedNumberException for " + number);
+        } catch (MalformedNumberException e) {
+            // expected
+        }
+    }
+
+    private void assertMalformedElbonian(String number) throws ValueOutOfBoundsException {
+        try {
+            codec.toElbonian(number);
+            fail("Expected MalformedNumberException for " + number);
+        } catch (MalformedNumberException e) {
+            // expected
+        }
+    }
+
+    private void assertOutOfBoundsArabic(String number) throws MalformedNumberException {
+        try {
+            codec.toArabic(number);
+            fail("Expected ValueOutOfBoundsException for " + number);
+        } catch (ValueOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    private void assertOutOfBoundsElbonian(String number) throws MalformedNumberException {
+        try {
+            codec.toElbonian(number);
+            fail("Expected ValueOutOfBoundsException for " + number);
+        } catch (ValueOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    // Checks that the codec returns or throws the same thing as the ElbonianArabicConverter
+    private void assertSameAsConverter(String number) {
+        assertEquals(number, describe(() -> new ElbonianArabicConverter(number).toArabic()),
+                describe(() -> codec.toArabic(number)));
+        assertEquals(number, describe(() -> new ElbonianArabicConverter(number).toElbonian()),
+                describe(() -> codec.toElbonian(number)));
+    }
+
+    private interface Conversion {
+        Object convert() throws Exception;
+    }
+
+    private static String describe(Conversion conversion) {
+        try {
+            return String.valueOf(conversion.convert());
+        } catch (Exception e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+}
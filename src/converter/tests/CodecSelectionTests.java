@@ -0,0 +1,58 @@
+package converter.tests;
+
+import converter.ElbonianCodec;
+import converter.ElbonianCodecs;
+import converter.ReferenceElbonianCodec;
+import converter.TableElbonianCodec;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for selecting a codec with ElbonianCodecs.
+ */
+public class CodecSelectionTests {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ElbonianCodecs.CODEC_PROPERTY);
+    }
+
+    @Test
+    public void defaultIsReference() {
+        assertEquals(ReferenceElbonianCodec.NAME, ElbonianCodecs.getDefault().name());
+    }
+
+    @Test
+    public void selectBySystemProperty() {
+        System.setProperty(ElbonianCodecs.CODEC_PROPERTY, TableElbonianCodec.NAME);
+        assertEquals(TableElbonianCodec.NAME, ElbonianCodecs.getDefault().name());
+    }
+
+    @Test
+    public void builderOverridesSystemProperty() {
+        System.setProperty(ElbonianCodecs.CODEC_PROPERTY, TableElbonianCodec.NAME);
+        ElbonianCodec codec = ElbonianCodecs.builder().name(ReferenceElbonianCodec.NAME).build();
+        assertEquals(ReferenceElbonianCodec.NAME, codec.name());
+    }
+
+    @Test
+    public void availableCodecsHaveUniqueNames() {
+        Set<String> names = new HashSet<>();
+        for (ElbonianCodec codec : ElbonianCodecs.available()) {
+            assertTrue(codec.name(), names.add(codec.name()));
+        }
+        assertTrue(names.contains(ReferenceElbonianCodec.NAME));
+        assertTrue(names.contains(TableElbonianCodec.NAME));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownCodec() {
+        ElbonianCodecs.get("unknown");
+    }
+}
@@ -0,0 +1,15 @@
+package converter.tests;
+
+import converter.ElbonianCodec;
+import converter.ReferenceElbonianCodec;
+
+/**
+ * Runs the codec conformance tests against the ReferenceElbonianCodec.
+ */
+public class ReferenceCodecTests extends CodecConformanceTests {
+
+    @Override
+    protected ElbonianCodec createCodec() {
+        return new ReferenceElbonianCodec();
+    }
+}
@@ -0,0 +1,62 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianScanner;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianScanner class.
+ */
+public class ScannerTests {
+
+    @Test
+    public void rewritesBothForms() {
+        assertEquals("took 4 ms, retried VI times", ElbonianScanner.rewrite("took VI ms, retried 4 times"));
+    }
+
+    @Test
+    public void leavesOtherTextAlone() {
+        String text = "Hello, world!\tMIX ii\nx3 V3 -- a-b 10000 -10000 -0 12.5% été";
+        assertEquals("Hello, world!\tMIX ii\nx3 V3 -- a-b 10000 -10000 -0 XII.VII% été",
+                ElbonianScanner.rewrite(text));
+    }
+
+    @Test
+    public void negativeNumbers() {
+        assertEquals("(-3) -VI X-V", ElbonianScanner.rewrite("(-V) -4 10-3"));
+    }
+
+    @Test
+    public void zero() {
+        assertEquals("0 Z -Z", ElbonianScanner.rewrite("Z 0 -Z"));
+    }
+
+    @Test
+    public void countsRewrites() {
+        StringBuilder out = new StringBuilder("> ");
+        assertEquals(4, ElbonianScanner.rewrite("I am XX and NNN is 9000 but NNNN is not", out));
+        assertEquals("> 1 am 20 and 9000 is NNN but NNNN is not", out.toString());
+    }
+
+    @Test
+    public void invalidElbonianIsLeftAlone() {
+        String[] invalid = {"MMM", "CCC", "XXX", "III", "NNNN", "DDDD", "LLLL", "VVVV", "NNNM", "DDDC", "LLLX",
+                "VVVI", "VZ", "ZZ", "NMDCXL", "IlI", "m"};
+        for (String number : invalid) {
+            assertEquals(number, "[" + number + "]", ElbonianScanner.rewrite("[" + number + "]"));
+        }
+    }
+
+    @Test
+    public void matchesConverter() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = -9999; i <= 9999; i++) {
+            String elbonian = new ElbonianArabicConverter(String.valueOf(i)).toElbonian();
+            assertEquals(" " + elbonian + " ", ElbonianScanner.rewrite(" " + i + " "));
+            assertEquals(" " + i + " ", ElbonianScanner.rewrite(" " + elbonian + " "));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package converter.tests;
+
+import converter.ElbonianCodec;
+import converter.ElbonianCodecs;
+import converter.TableElbonianCodec;
+
+/**
+ * Runs the codec conformance tests against the TableElbonianCodec, found the same way a service would find it.
+ */
+public class TableCodecTests extends CodecConformanceTests {
+
+    @Override
+    protected ElbonianCodec createCodec() {
+        return ElbonianCodecs.get(TableElbonianCodec.NAME);
+    }
+}